@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -24,13 +25,14 @@ public class Note {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false, length = 10)
+    @Column(nullable = false, length = 10)
     private String urlCode;
 
     @Column(columnDefinition = "TEXT")
     private String content;
 
-    @Column(nullable = false)
+    @PartitionKey
+    @Column(nullable = false, updatable = false)
     private ZonedDateTime expiresAt;
 
     @CreationTimestamp
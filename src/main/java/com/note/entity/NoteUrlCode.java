@@ -0,0 +1,54 @@
+package com.note.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.ZonedDateTime;
+
+@Entity
+@Table(name = "note_url_codes")
+@Data
+@NoArgsConstructor
+public class NoteUrlCode implements Persistable<String> {
+
+    @Id
+    @Column(length = 10)
+    private String urlCode;
+
+    @Column(nullable = false)
+    private ZonedDateTime expiresAt;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient boolean persisted;
+
+    @Builder
+    public NoteUrlCode(String urlCode, ZonedDateTime expiresAt) {
+        this.urlCode = urlCode;
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String getId() {
+        return urlCode;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,9 @@
+package com.note.repository;
+
+import com.note.entity.NoteUrlCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NoteUrlCodeRepository extends JpaRepository<NoteUrlCode, String> {
+}
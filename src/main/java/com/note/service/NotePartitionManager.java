@@ -0,0 +1,242 @@
+package com.note.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owns the schema of the {@code notes} table, which is range-partitioned by {@code expires_at}
+ * into one partition per UTC day. Expired notes are removed by dropping whole partitions
+ * instead of deleting rows, and {@code note_url_codes} acts as the global url code index
+ * that resolves a url code to the partition key.
+ * <p>
+ * Expired partitions are detached concurrently outside of any transaction, which requires PostgreSQL 14+.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotePartitionManager {
+
+    private static final String PARTITION_PREFIX = "notes_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter PARTITION_BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // CreateNoteRequest caps durationInHours at 730 (~30.4 days), so every new note lands in a pre-created partition
+    static final int PREMAKE_DAYS = 35;
+    private static final long MAINTENANCE_LOCK_KEY = 0x6e6f746573L;
+    private static final String LOCK_TIMEOUT = "5s";
+    // Also lists detached daily tables left behind when a DROP did not follow its DETACH
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT c.relname, i.inhrelid IS NOT NULL AS attached, COALESCE(i.inhdetachpending, FALSE) AS detach_pending
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            LEFT JOIN pg_inherits i ON i.inhrelid = c.oid
+            WHERE c.relkind = 'r' AND c.relname ~ '^notes_p[0-9]{8}$' AND n.nspname = current_schema()
+            ORDER BY detach_pending DESC, c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        transactionTemplate.executeWithoutResult(status -> {
+            acquireMaintenanceLock();
+            String relkind = findNotesRelkind();
+
+            if (relkind == null) {
+                createSchema();
+            } else if ("r".equals(relkind)) {
+                migrateLegacyTable();
+            } else {
+                createLookupTable();
+            }
+
+            createPartitions(today());
+        });
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void createFuturePartitions() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                acquireMaintenanceLock();
+                // CREATE TABLE ... PARTITION OF locks notes exclusively; with PREMAKE_DAYS of headroom, retrying next hour is harmless
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + LOCK_TIMEOUT + "'");
+                createPartitions(today());
+            });
+        } catch (DataAccessException e) {
+            log.warn("Creating future note partitions failed, retrying next hour", e);
+        }
+    }
+
+    public int dropExpiredPartitions() {
+        Integer dropped = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                if (!tryMaintenanceLock(statement)) return 0;
+
+                try {
+                    statement.execute("SET lock_timeout = '" + LOCK_TIMEOUT + "'");
+                    return dropExpiredPartitions(statement, today());
+                } finally {
+                    statement.execute("RESET lock_timeout");
+                    statement.execute("SELECT pg_advisory_unlock(" + MAINTENANCE_LOCK_KEY + ")");
+                }
+            }
+        });
+
+        return dropped == null ? 0 : dropped;
+    }
+
+    private int dropExpiredPartitions(Statement statement, LocalDate today) throws SQLException {
+        List<Partition> expiredPartitions = new ArrayList<>();
+
+        try (ResultSet partitions = statement.executeQuery(FIND_PARTITIONS_SQL)) {
+            while (partitions.next()) {
+                String name = partitions.getString("relname");
+                LocalDate day = parsePartitionDay(name);
+                if (day != null && isExpired(day, today)) {
+                    expiredPartitions.add(new Partition(name, partitions.getBoolean("attached"),
+                            partitions.getBoolean("detach_pending")));
+                }
+            }
+        }
+
+        for (Partition partition : expiredPartitions) {
+            // DETACH CONCURRENTLY avoids an ACCESS EXCLUSIVE lock on notes; FINALIZE completes an interrupted detach.
+            // Pending detaches are ordered first, since no new concurrent detach can start while one is pending
+            if (partition.attached()) {
+                statement.execute("ALTER TABLE notes DETACH PARTITION " + partition.name()
+                        + (partition.detachPending() ? " FINALIZE" : " CONCURRENTLY"));
+            }
+            statement.execute("DROP TABLE IF EXISTS " + partition.name());
+        }
+
+        if (!expiredPartitions.isEmpty()) {
+            statement.executeUpdate("DELETE FROM note_url_codes WHERE expires_at < " + partitionBound(today));
+        }
+
+        return expiredPartitions.size();
+    }
+
+    private void createSchema() {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS note_id_seq");
+        jdbcTemplate.execute("""
+                CREATE TABLE notes (
+                    id BIGINT NOT NULL DEFAULT nextval('note_id_seq'),
+                    url_code VARCHAR(10) NOT NULL,
+                    content TEXT,
+                    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+                    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+                    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+                    is_read_only BOOLEAN NOT NULL DEFAULT FALSE,
+                    is_partial_editing_only BOOLEAN NOT NULL DEFAULT FALSE,
+                    CONSTRAINT notes_id_expires_at_pkey PRIMARY KEY (id, expires_at)
+                ) PARTITION BY RANGE (expires_at)
+                """);
+        jdbcTemplate.execute("ALTER SEQUENCE note_id_seq OWNED BY notes.id");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS notes_url_code_expires_at_idx ON notes (url_code, expires_at)");
+        createLookupTable();
+    }
+
+    private void createLookupTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS note_url_codes (
+                    url_code VARCHAR(10) PRIMARY KEY,
+                    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS note_url_codes_expires_at_idx ON note_url_codes (expires_at)");
+    }
+
+    private void migrateLegacyTable() {
+        log.info("Migrating legacy notes table to a partitioned table");
+
+        jdbcTemplate.execute("ALTER TABLE notes RENAME TO notes_legacy");
+        createSchema();
+        createPartitions(today());
+
+        int migrated = jdbcTemplate.update("""
+                INSERT INTO notes (id, url_code, content, expires_at, created_at, updated_at, is_read_only, is_partial_editing_only)
+                SELECT id, url_code, content, expires_at, created_at, updated_at, is_read_only, is_partial_editing_only
+                FROM notes_legacy
+                WHERE expires_at >= """ + partitionBound(today()));
+        jdbcTemplate.update("""
+                INSERT INTO note_url_codes (url_code, expires_at)
+                SELECT url_code, expires_at FROM notes
+                ON CONFLICT (url_code) DO NOTHING
+                """);
+        jdbcTemplate.queryForObject(
+                "SELECT setval('note_id_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM notes_legacy), 1))",
+                Long.class);
+        jdbcTemplate.execute("DROP TABLE notes_legacy");
+
+        log.info("Migrated {} notes to the partitioned notes table", migrated);
+    }
+
+    private void createPartitions(LocalDate from) {
+        for (int i = 0; i <= PREMAKE_DAYS; i++) {
+            LocalDate day = from.plusDays(i);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day) + " PARTITION OF notes"
+                    + " FOR VALUES FROM (" + partitionBound(day) + ") TO (" + partitionBound(day.plusDays(1)) + ")");
+        }
+    }
+
+    private String findNotesRelkind() {
+        List<String> relkinds = jdbcTemplate.queryForList("""
+                SELECT c.relkind::text FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE c.relname = 'notes' AND n.nspname = current_schema()
+                """, String.class);
+        return relkinds.isEmpty() ? null : relkinds.getFirst();
+    }
+
+    private void acquireMaintenanceLock() {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", MAINTENANCE_LOCK_KEY);
+    }
+
+    private boolean tryMaintenanceLock(Statement statement) throws SQLException {
+        try (ResultSet lock = statement.executeQuery("SELECT pg_try_advisory_lock(" + MAINTENANCE_LOCK_KEY + ")")) {
+            return lock.next() && lock.getBoolean(1);
+        }
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+    }
+
+    static String partitionBound(LocalDate day) {
+        return "'" + day.format(PARTITION_BOUND) + " 00:00:00+00'";
+    }
+
+    static LocalDate parsePartitionDay(String partition) {
+        if (!partition.matches(PARTITION_PREFIX + "\\d{8}")) return null;
+        return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+    }
+
+    static boolean isExpired(LocalDate partitionDay, LocalDate today) {
+        return !partitionDay.plusDays(1).isAfter(today);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+
+    private record Partition(String name, boolean attached, boolean detachPending) {
+    }
+}
@@ -5,10 +5,12 @@ import com.note.dto.CreateNoteResponse;
 import com.note.dto.NoteResponse;
 import com.note.dto.UpdateNoteRequest;
 import com.note.entity.Note;
+import com.note.entity.NoteUrlCode;
 import com.note.exception.NoteExpiredException;
 import com.note.exception.NoteNotFoundException;
 import com.note.mapper.NoteMapper;
 import com.note.repository.NoteRepository;
+import com.note.repository.NoteUrlCodeRepository;
 import com.note.util.AESUtil;
 import com.note.util.HtmlSanitizer;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +33,8 @@ public class NoteService {
     private static final SecureRandom RANDOM = new SecureRandom();
 
     private final NoteRepository noteRepository;
+    private final NoteUrlCodeRepository noteUrlCodeRepository;
+    private final NotePartitionManager notePartitionManager;
     private final NoteMapper noteMapper;
 
     @Transactional
@@ -50,6 +54,10 @@ public class NoteService {
                 .build();
 
         Note savedNote = noteRepository.save(note);
+        noteUrlCodeRepository.save(NoteUrlCode.builder()
+                .urlCode(urlCode)
+                .expiresAt(expiresAt)
+                .build());
         log.info("Created note with URL code: {}", urlCode);
 
         return noteMapper.toCreateNoteResponse(savedNote);
@@ -84,11 +92,10 @@ public class NoteService {
     }
 
     @Scheduled(cron = "0 */15 * * * *")
-    @Transactional
     public void deleteExpiredNotes() {
-        int count = noteRepository.deleteExpiredNotes(ZonedDateTime.now(ZoneId.of("UTC")));
-        if (count > 0) {
-            log.info("Deleted {} expired notes", count);
+        int partitions = notePartitionManager.dropExpiredPartitions();
+        if (partitions > 0) {
+            log.info("Dropped {} expired note partitions", partitions);
         }
     }
 
@@ -137,7 +144,7 @@ public class NoteService {
         String urlCode;
         do {
             urlCode = generateRandomString();
-        } while (noteRepository.existsByUrlCode(urlCode));
+        } while (noteUrlCodeRepository.existsById(urlCode));
         return urlCode;
     }
 
@@ -0,0 +1,59 @@
+package com.note.service;
+
+import com.note.dto.CreateNoteRequest;
+import jakarta.validation.constraints.Max;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotePartitionManagerTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    @Test
+    void partitionNameRoundTripsThroughParse() {
+        String partition = NotePartitionManager.partitionName(TODAY);
+
+        assertThat(partition).isEqualTo("notes_p20261019");
+        assertThat(NotePartitionManager.parsePartitionDay(partition)).isEqualTo(TODAY);
+    }
+
+    @Test
+    void parseIgnoresTablesThatAreNotDailyPartitions() {
+        assertThat(NotePartitionManager.parsePartitionDay("notes")).isNull();
+        assertThat(NotePartitionManager.parsePartitionDay("notes_legacy")).isNull();
+        assertThat(NotePartitionManager.parsePartitionDay("notes_p2026101")).isNull();
+        assertThat(NotePartitionManager.parsePartitionDay("notes_p20261019_old")).isNull();
+    }
+
+    @Test
+    void partitionBoundIsStartOfDayInUtc() {
+        assertThat(NotePartitionManager.partitionBound(TODAY)).isEqualTo("'2026-10-19 00:00:00+00'");
+    }
+
+    @Test
+    void onlyPartitionsOfFullyPassedDaysAreExpired() {
+        assertThat(NotePartitionManager.isExpired(TODAY.minusDays(2), TODAY)).isTrue();
+        assertThat(NotePartitionManager.isExpired(TODAY.minusDays(1), TODAY)).isTrue();
+        assertThat(NotePartitionManager.isExpired(TODAY, TODAY)).isFalse();
+        assertThat(NotePartitionManager.isExpired(TODAY.plusDays(1), TODAY)).isFalse();
+    }
+
+    @Test
+    void premadePartitionsCoverMaximumNoteDuration() throws NoSuchFieldException {
+        long maxDurationInHours = CreateNoteRequest.class.getDeclaredField("durationInHours")
+                .getAnnotation(Max.class)
+                .value();
+
+        ZonedDateTime latestCreation = ZonedDateTime.of(TODAY, LocalTime.MAX, ZoneOffset.UTC);
+        LocalDate latestExpiryDay = latestCreation.plusHours(maxDurationInHours).toLocalDate();
+        LocalDate lastPremadeDay = TODAY.plusDays(NotePartitionManager.PREMAKE_DAYS);
+
+        assertThat(latestExpiryDay).isBeforeOrEqualTo(lastPremadeDay);
+    }
+}